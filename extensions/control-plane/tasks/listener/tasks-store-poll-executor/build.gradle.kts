@@ -22,7 +22,6 @@ dependencies {
     api(libs.edc.spi.transaction)
     api(libs.edc.spi.transfer)
     api(libs.edc.spi.tasks)
-    testImplementation(libs.awaitility)
     testImplementation(libs.edc.junit)
     testImplementation(testFixtures(libs.edc.spi.contract))
     testImplementation(libs.testcontainers.junit)
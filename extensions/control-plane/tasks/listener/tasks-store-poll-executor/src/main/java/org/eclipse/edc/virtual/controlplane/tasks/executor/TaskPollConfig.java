@@ -22,7 +22,9 @@ public record TaskPollConfig(
         @Setting(key = "edc.tasks.poll.shutdown-timeout", description = "Shutdown timeout for the task poller", defaultValue = "10")
         int shutdownTimeout,
         @Setting(key = "edc.tasks.poll.max-retry", description = "Max retries for task execution failure on transient errors", defaultValue = "3")
-        int maxRetries
+        int maxRetries,
+        @Setting(key = "edc.tasks.poll.batch-size", description = "Max number of tasks executed per poll iteration, each one in its own transaction. The iteration ends early when the store is empty or a task fails", defaultValue = "1")
+        int batchSize
 ) {
 
 }
@@ -50,31 +50,41 @@ public class TaskPollExecutor {
     private final ScheduledExecutorService executor;
     private final Clock clock;
     private final AtomicBoolean active = new AtomicBoolean();
-
+    private final int batchSize;
     private final QuerySpec query = QuerySpec.Builder.newInstance()
             .sortField("at")
             .sortOrder(SortOrder.ASC)
             .limit(1)
             .build();
 
-
     public TaskPollExecutor(TaskPollConfig taskPollConfig, ExecutorInstrumentation instrumentation, ContractNegotiationTaskExecutor contractNegotiationTaskExecutor,
-                            TransferProcessTaskExecutor transferProcessTaskExecutor, TaskStore taskStore, TransactionContext transactionContext,
-                            Monitor monitor, Clock clock) {
+                            TransferProcessTaskExecutor transferProcessTaskExecutor, TaskStore taskStore,
+                            TransactionContext transactionContext, Monitor monitor, Clock clock) {
+        this(taskPollConfig, instrumentation.instrument(
+                        Executors.newSingleThreadScheduledExecutor(r -> {
+                            var thread = Executors.defaultThreadFactory().newThread(r);
+                            thread.setName("TaskPollExecutor");
+                            return thread;
+                        }), "TaskPollExecutor"),
+                contractNegotiationTaskExecutor, transferProcessTaskExecutor, taskStore, transactionContext, monitor, clock);
+    }
+
+    /**
+     * Creates a poll executor that runs on the given scheduler. The scheduler must execute iterations sequentially; this
+     * is mainly useful to drive the executor from a deterministic scheduler in tests and simulations.
+     */
+    public TaskPollExecutor(TaskPollConfig taskPollConfig, ScheduledExecutorService executor, ContractNegotiationTaskExecutor contractNegotiationTaskExecutor,
+                            TransferProcessTaskExecutor transferProcessTaskExecutor, TaskStore taskStore,
+                            TransactionContext transactionContext, Monitor monitor, Clock clock) {
         this.taskPollConfig = taskPollConfig;
         this.contractNegotiationTaskExecutor = contractNegotiationTaskExecutor;
         this.transferProcessTaskExecutor = transferProcessTaskExecutor;
         this.taskStore = taskStore;
         this.transactionContext = transactionContext;
         this.monitor = monitor;
-
-        executor = instrumentation.instrument(
-                Executors.newSingleThreadScheduledExecutor(r -> {
-                    var thread = Executors.defaultThreadFactory().newThread(r);
-                    thread.setName("TaskPollExecutor");
-                    return thread;
-                }), "TaskPollExecutor");
+        this.executor = executor;
         this.clock = clock;
+        this.batchSize = Math.max(1, taskPollConfig.batchSize());
     }
 
     /**
@@ -116,40 +126,56 @@ public class TaskPollExecutor {
 
     private void run() {
         if (active.get()) {
-            transactionContext.execute(() -> {
-                try {
-                    var tasks = taskStore.fetchForUpdate(query);
-                    for (var task : tasks) {
-                        executeTask(task);
+            try {
+                for (var polled = 0; polled < batchSize && active.get(); polled++) {
+                    if (!pollOnce()) {
+                        break;
                     }
-                } catch (Exception e) {
-                    monitor.severe("TaskPollExecutor failed to process tasks", e);
-                } finally {
-                    scheduleNextIterationIn(100L);
                 }
-            });
-
+            } catch (Exception e) {
+                monitor.severe("TaskPollExecutor failed to process tasks", e);
+            } finally {
+                scheduleNextIterationIn(100L);
+            }
         }
     }
 
-    private void executeTask(Task task) {
+    /**
+     * Fetches and executes the next due task in its own transaction, so that a rollback only ever undoes the work of
+     * that task.
+     *
+     * @return true if a task was found and succeeded, false if the batch should end
+     */
+    private boolean pollOnce() {
+        return transactionContext.execute(() -> {
+            var tasks = taskStore.fetchForUpdate(query);
+            var succeeded = !tasks.isEmpty();
+            for (var task : tasks) {
+                succeeded &= executeTask(task);
+            }
+            return succeeded;
+        });
+    }
+
+    private boolean executeTask(Task task) {
         var result = handleTask(task);
         if (result.succeeded()) {
             taskStore.delete(task.getId());
+            return true;
+        }
+        if (result.fatalError()) {
+            monitor.severe("Fatal error processing task " + task.getId() + ": " + result.getFailureDetail());
+            taskStore.delete(task.getId());
         } else {
-            if (result.fatalError()) {
-                monitor.severe("Fatal error processing task " + task.getId() + ": " + result.getFailureDetail());
+            if (task.getRetryCount() >= taskPollConfig.maxRetries()) {
+                monitor.severe("Task " + task.getId() + " reached max retry count of " + taskPollConfig.maxRetries() + ". Dropping task. Last error: " + result.getFailureDetail());
                 taskStore.delete(task.getId());
-            } else {
-                if (task.getRetryCount() >= taskPollConfig.maxRetries()) {
-                    monitor.severe("Task " + task.getId() + " reached max retry count of " + taskPollConfig.maxRetries() + ". Dropping task. Last error: " + result.getFailureDetail());
-                    taskStore.delete(task.getId());
-                    return;
-                }
-                monitor.warning("Transient error processing task " + task.getId() + ": " + result.getFailureDetail() + ". Will retry later.");
-                taskStore.update(task.toBuilder().at(clock.millis()).retryCount(task.getRetryCount() + 1).build());
+                return false;
             }
+            monitor.warning("Transient error processing task " + task.getId() + ": " + result.getFailureDetail() + ". Will retry later.");
+            taskStore.update(task.toBuilder().at(clock.millis()).retryCount(task.getRetryCount() + 1).build());
         }
+        return false;
     }
 
     private StatusResult<Void> handleTask(Task task) {
@@ -26,26 +26,24 @@ import org.eclipse.edc.controlplane.transfer.spi.tasks.TransferProcessTaskPayloa
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.response.StatusResult;
-import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
-import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.virtual.controlplane.tasks.executor.simulation.DeterministicScheduledExecutor;
+import org.eclipse.edc.virtual.controlplane.tasks.executor.simulation.VirtualClock;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.awaitility.Awaitility.await;
 import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -55,19 +53,17 @@ class TaskPollExecutorTest {
     private final ContractNegotiationTaskExecutor contractNegotiationTaskExecutor = mock();
     private final TransferProcessTaskExecutor transferProcessTaskExecutor = mock();
     private final TaskStore taskStore = mock();
-    private final TransactionContext transactionContext = new NoopTransactionContext();
+    private final CountingTransactionContext transactionContext = new CountingTransactionContext();
     private final Monitor monitor = mock();
-    private final ExecutorInstrumentation instrumentation = mock();
-    private final Clock clock = Clock.systemUTC();
+    private final VirtualClock clock = new VirtualClock(1_000_000L);
+    private DeterministicScheduledExecutor scheduler = new DeterministicScheduledExecutor(clock);
     private TaskPollExecutor pollExecutor;
 
     @BeforeEach
     void setUp() {
-        when(instrumentation.instrument(any(), anyString())).thenAnswer(invocation -> invocation.getArgument(0));
-
-        var cfg = new TaskPollConfig(10, 2);
+        var cfg = new TaskPollConfig(10, 2, 1);
         pollExecutor = new TaskPollExecutor(
-                cfg, instrumentation,
+                cfg, scheduler,
                 contractNegotiationTaskExecutor,
                 transferProcessTaskExecutor,
                 taskStore,
@@ -100,7 +96,7 @@ class TaskPollExecutorTest {
                 .processType("CONSUMER")
                 .build();
         var task = Task.Builder.newInstance()
-                .at(System.currentTimeMillis())
+                .at(clock.millis())
                 .payload(payload)
                 .build();
 
@@ -111,9 +107,9 @@ class TaskPollExecutorTest {
 
         pollExecutor.start();
 
-        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() ->
-                verify(taskStore, atLeastOnce()).fetchForUpdate(any(QuerySpec.class))
-        );
+        scheduler.runFor(Duration.ZERO);
+
+        verify(taskStore, atLeastOnce()).fetchForUpdate(any(QuerySpec.class));
     }
 
     @Test
@@ -124,7 +120,7 @@ class TaskPollExecutorTest {
                 .processType("CONSUMER")
                 .build();
         var task = Task.Builder.newInstance()
-                .at(System.currentTimeMillis())
+                .at(clock.millis())
                 .payload(payload)
                 .build();
 
@@ -135,9 +131,9 @@ class TaskPollExecutorTest {
 
         pollExecutor.start();
 
-        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() ->
-                verify(taskStore).delete(task.getId())
-        );
+        scheduler.runFor(Duration.ZERO);
+
+        verify(taskStore).delete(task.getId());
     }
 
     @Test
@@ -148,7 +144,7 @@ class TaskPollExecutorTest {
                 .processType("CONSUMER")
                 .build();
         var task = Task.Builder.newInstance()
-                .at(System.currentTimeMillis())
+                .at(clock.millis())
                 .payload(payload)
                 .build();
 
@@ -160,9 +156,9 @@ class TaskPollExecutorTest {
 
         pollExecutor.start();
 
-        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() ->
-                verify(taskStore).update(any(Task.class))
-        );
+        scheduler.runFor(Duration.ZERO);
+
+        verify(taskStore).update(any(Task.class));
     }
 
     @Test
@@ -173,7 +169,7 @@ class TaskPollExecutorTest {
                 .processType("CONSUMER")
                 .build();
         var task = Task.Builder.newInstance()
-                .at(System.currentTimeMillis())
+                .at(clock.millis())
                 .payload(payload)
                 .build();
 
@@ -184,9 +180,9 @@ class TaskPollExecutorTest {
 
         pollExecutor.start();
 
-        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() ->
-                verify(contractNegotiationTaskExecutor).handle(any(ContractNegotiationTaskPayload.class))
-        );
+        scheduler.runFor(Duration.ZERO);
+
+        verify(contractNegotiationTaskExecutor).handle(any(ContractNegotiationTaskPayload.class));
     }
 
     @Test
@@ -197,7 +193,7 @@ class TaskPollExecutorTest {
                 .processType("CONSUMER")
                 .build();
         var task = Task.Builder.newInstance()
-                .at(System.currentTimeMillis())
+                .at(clock.millis())
                 .payload(payload)
                 .build();
 
@@ -208,16 +204,16 @@ class TaskPollExecutorTest {
 
         pollExecutor.start();
 
-        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() ->
-                verify(transferProcessTaskExecutor).handle(any(TransferProcessTaskPayload.class))
-        );
+        scheduler.runFor(Duration.ZERO);
+
+        verify(transferProcessTaskExecutor).handle(any(TransferProcessTaskPayload.class));
     }
 
     @Test
     void handleTask_shouldHandleUnknownPayloadType() {
         var payload = new UnknownPayload("process-1", 100, "CONSUMER");
         var task = Task.Builder.newInstance()
-                .at(System.currentTimeMillis())
+                .at(clock.millis())
                 .payload(payload)
                 .build();
 
@@ -227,9 +223,9 @@ class TaskPollExecutorTest {
 
         pollExecutor.start();
 
-        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() ->
-                verify(taskStore).delete(task.getId())
-        );
+        scheduler.runFor(Duration.ZERO);
+
+        verify(taskStore).delete(task.getId());
     }
 
     @Test
@@ -240,7 +236,7 @@ class TaskPollExecutorTest {
                 .processType("CONSUMER")
                 .build();
         var task = Task.Builder.newInstance()
-                .at(System.currentTimeMillis())
+                .at(clock.millis())
                 .payload(payload)
                 .build();
 
@@ -252,9 +248,9 @@ class TaskPollExecutorTest {
 
         pollExecutor.start();
 
-        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() ->
-                verify(taskStore, times(3)).fetchForUpdate(any(QuerySpec.class))
-        );
+        scheduler.runFor(Duration.ofMillis(200));
+
+        verify(taskStore, times(3)).fetchForUpdate(any(QuerySpec.class));
     }
 
     @Test
@@ -265,9 +261,9 @@ class TaskPollExecutorTest {
 
         pollExecutor.start();
 
-        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() ->
-                verify(monitor).severe(any(String.class), any(Exception.class))
-        );
+        scheduler.runFor(Duration.ZERO);
+
+        verify(monitor).severe(any(String.class), any(Exception.class));
     }
 
     @Test
@@ -279,7 +275,7 @@ class TaskPollExecutorTest {
                 .build();
 
         var task = Task.Builder.newInstance()
-                .at(System.currentTimeMillis())
+                .at(clock.millis())
                 .payload(payload)
                 .build();
 
@@ -292,25 +288,24 @@ class TaskPollExecutorTest {
 
         pollExecutor.start();
 
-        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
-                    verify(taskStore, times(3)).fetchForUpdate(any(QuerySpec.class));
-                    verify(taskStore).delete(task.getId());
-                    verify(taskStore, times(2)).update(any());
-                }
-        );
+        scheduler.runFor(Duration.ofMillis(200));
+
+        verify(taskStore, times(3)).fetchForUpdate(any(QuerySpec.class));
+        verify(taskStore).delete(task.getId());
+        verify(taskStore, times(2)).update(any());
     }
 
     @Test
-    void stop_shouldStopPolling() throws InterruptedException {
+    void stop_shouldStopPolling() {
         when(taskStore.fetchForUpdate(any(QuerySpec.class))).thenReturn(List.of());
 
         pollExecutor.start();
-        Thread.sleep(200); // Allow some polling cycles
+        scheduler.runFor(Duration.ofMillis(200)); // Allow some polling cycles
         pollExecutor.stop();
 
         // Verify that no more tasks are fetched after stopping
         var callCountBefore = mockingDetails(taskStore).getInvocations().size();
-        Thread.sleep(300);
+        scheduler.runFor(Duration.ofMillis(300));
         var callCountAfter = mockingDetails(taskStore).getInvocations().size();
 
         assertThat(callCountAfter).isEqualTo(callCountBefore);
@@ -324,7 +319,7 @@ class TaskPollExecutorTest {
                 .processType("CONSUMER")
                 .build();
         var task = Task.Builder.newInstance()
-                .at(System.currentTimeMillis())
+                .at(clock.millis())
                 .payload(payload)
                 .build();
 
@@ -337,9 +332,9 @@ class TaskPollExecutorTest {
 
         pollExecutor.start();
 
-        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() ->
-                verify(monitor).severe(any(String.class))
-        );
+        scheduler.runFor(Duration.ZERO);
+
+        verify(monitor).severe(any(String.class));
     }
 
     @Test
@@ -350,7 +345,7 @@ class TaskPollExecutorTest {
                 .processType("CONSUMER")
                 .build();
         var task1 = Task.Builder.newInstance()
-                .at(System.currentTimeMillis())
+                .at(clock.millis())
                 .payload(payload1)
                 .build();
 
@@ -360,7 +355,7 @@ class TaskPollExecutorTest {
                 .processType("CONSUMER")
                 .build();
         var task2 = Task.Builder.newInstance()
-                .at(System.currentTimeMillis() + 1)
+                .at(clock.millis() + 1)
                 .payload(payload2)
                 .build();
 
@@ -372,11 +367,113 @@ class TaskPollExecutorTest {
 
         pollExecutor.start();
 
-        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
-            verify(contractNegotiationTaskExecutor).handle(any());
-            verify(transferProcessTaskExecutor).handle(any());
-            verify(taskStore, times(2)).delete(any());
-        });
+        scheduler.runFor(Duration.ZERO);
+
+        verify(contractNegotiationTaskExecutor).handle(any());
+        verify(transferProcessTaskExecutor).handle(any());
+        verify(taskStore, times(2)).delete(any());
+    }
+
+    @Test
+    void run_shouldExecuteEachTaskOfBatchInOwnTransaction() {
+        pollExecutor = createExecutor(3);
+        var first = Task.Builder.newInstance().at(clock.millis()).payload(negotiationPayload("negotiation-1")).build();
+        var second = Task.Builder.newInstance().at(clock.millis()).payload(negotiationPayload("negotiation-2")).build();
+
+        when(taskStore.fetchForUpdate(any(QuerySpec.class)))
+                .thenReturn(List.of(first))
+                .thenReturn(List.of(second))
+                .thenReturn(List.of());
+        when(contractNegotiationTaskExecutor.handle(any())).thenReturn(StatusResult.success());
+
+        pollExecutor.start();
+
+        scheduler.runFor(Duration.ZERO);
+
+        verify(taskStore, times(3)).fetchForUpdate(any(QuerySpec.class));
+        verify(taskStore).delete(first.getId());
+        verify(taskStore).delete(second.getId());
+        assertThat(transactionContext.transactions).isEqualTo(3);
+    }
+
+    @Test
+    void run_shouldStopBatch_whenBatchSizeReached() {
+        pollExecutor = createExecutor(2);
+        var task = Task.Builder.newInstance().at(clock.millis()).payload(negotiationPayload("negotiation-1")).build();
+
+        when(taskStore.fetchForUpdate(any(QuerySpec.class))).thenReturn(List.of(task));
+        when(contractNegotiationTaskExecutor.handle(any())).thenReturn(StatusResult.success());
+
+        pollExecutor.start();
+
+        scheduler.runFor(Duration.ZERO);
+
+        verify(taskStore, times(2)).fetchForUpdate(any(QuerySpec.class));
+        assertThat(transactionContext.transactions).isEqualTo(2);
+    }
+
+    @Test
+    void run_shouldKeepCompletedTasksOfBatch_whenLaterTaskThrows() {
+        pollExecutor = createExecutor(3);
+        var first = Task.Builder.newInstance().at(clock.millis()).payload(negotiationPayload("negotiation-1")).build();
+        var second = Task.Builder.newInstance().at(clock.millis()).payload(negotiationPayload("negotiation-2")).build();
+
+        when(taskStore.fetchForUpdate(any(QuerySpec.class)))
+                .thenReturn(List.of(first))
+                .thenReturn(List.of(second));
+        when(contractNegotiationTaskExecutor.handle(any()))
+                .thenReturn(StatusResult.success())
+                .thenThrow(new RuntimeException("Handler error"));
+
+        pollExecutor.start();
+
+        scheduler.runFor(Duration.ZERO);
+
+        verify(taskStore).delete(first.getId());
+        verify(taskStore, never()).delete(second.getId());
+        verify(taskStore, times(2)).fetchForUpdate(any(QuerySpec.class));
+        verify(monitor).severe(any(String.class), any(Exception.class));
+    }
+
+    @Test
+    void run_shouldEndBatch_whenTaskFails() {
+        pollExecutor = createExecutor(3);
+        var task = Task.Builder.newInstance().at(clock.millis()).payload(negotiationPayload("negotiation-1")).build();
+
+        when(taskStore.fetchForUpdate(any(QuerySpec.class)))
+                .thenReturn(List.of(task))
+                .thenReturn(List.of(task.toBuilder().retryCount(1).build()))
+                .thenReturn(List.of());
+        when(contractNegotiationTaskExecutor.handle(any()))
+                .thenReturn(StatusResult.failure(ERROR_RETRY, "Processing failed"));
+
+        pollExecutor.start();
+
+        scheduler.runFor(Duration.ZERO);
+
+        verify(taskStore).fetchForUpdate(any(QuerySpec.class));
+        verify(taskStore).update(any(Task.class));
+
+        scheduler.runFor(Duration.ofMillis(100));
+
+        verify(taskStore, times(2)).fetchForUpdate(any(QuerySpec.class));
+        verify(taskStore, times(2)).update(any(Task.class));
+    }
+
+    private TaskPollExecutor createExecutor(int batchSize) {
+        pollExecutor.stop();
+        var executor = new DeterministicScheduledExecutor(clock);
+        scheduler = executor;
+        return new TaskPollExecutor(new TaskPollConfig(10, 2, batchSize), executor, contractNegotiationTaskExecutor,
+                transferProcessTaskExecutor, taskStore, transactionContext, monitor, clock);
+    }
+
+    private RequestNegotiation negotiationPayload(String processId) {
+        return RequestNegotiation.Builder.newInstance()
+                .processId(processId)
+                .processState(100)
+                .processType("CONSUMER")
+                .build();
     }
 
     /**
@@ -400,4 +497,15 @@ class TaskPollExecutorTest {
             return "unknown";
         }
     }
+
+    private static class CountingTransactionContext extends NoopTransactionContext {
+
+        private int transactions;
+
+        @Override
+        public <T> T execute(ResultTransactionBlock<T> block) {
+            transactions++;
+            return super.execute(block);
+        }
+    }
 }
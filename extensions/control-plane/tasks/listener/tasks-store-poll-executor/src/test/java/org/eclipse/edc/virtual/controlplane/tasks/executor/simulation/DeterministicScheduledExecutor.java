@@ -0,0 +1,216 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.executor.simulation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Single-threaded {@link ScheduledExecutorService} driven by a {@link VirtualClock}. Nothing runs until
+ * {@link #runFor(Duration)} or {@link #runUntilIdle(int)} is called, which execute the scheduled commands on the calling
+ * thread in order of their due time, advancing the clock as they go. Commands due at the same time run in submission
+ * order. Periodic commands are put back into the queue after each run until they are cancelled or throw; like in
+ * {@link java.util.concurrent.ScheduledThreadPoolExecutor}, they no longer run once the executor is shut down, while
+ * pending one-shot commands still do.
+ */
+public class DeterministicScheduledExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private final VirtualClock clock;
+    private final PriorityQueue<ScheduledCommand<?>> queue = new PriorityQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private boolean shutdown;
+
+    public DeterministicScheduledExecutor(VirtualClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Runs all commands that become due within the given duration, then moves the clock to the end of the window.
+     *
+     * @param duration the virtual time window
+     * @return the number of executed commands
+     */
+    public int runFor(Duration duration) {
+        var end = clock.millis() + duration.toMillis();
+        var executed = 0;
+        while (!queue.isEmpty() && queue.peek().at <= end) {
+            var command = queue.poll();
+            clock.advanceTo(command.at);
+            command.run();
+            executed++;
+        }
+        clock.advanceTo(end);
+        return executed;
+    }
+
+    /**
+     * Runs commands until the queue is empty or the given number of commands has been executed, which guards
+     * against self-rescheduling loops.
+     *
+     * @param maxCommands upper bound of executed commands
+     * @return the number of executed commands
+     */
+    public int runUntilIdle(int maxCommands) {
+        var executed = 0;
+        while (!queue.isEmpty() && executed < maxCommands) {
+            var command = queue.poll();
+            clock.advanceTo(command.at);
+            command.run();
+            executed++;
+        }
+        return executed;
+    }
+
+    /**
+     * Returns the number of commands waiting to be executed.
+     */
+    public int pending() {
+        return queue.size();
+    }
+
+    @Override
+    public @NotNull ScheduledFuture<?> schedule(@NotNull Runnable command, long delay, @NotNull TimeUnit unit) {
+        return enqueue(new ScheduledCommand<>(command, null, clock.millis() + unit.toMillis(delay), 0, sequence.getAndIncrement()));
+    }
+
+    @Override
+    public @NotNull <V> ScheduledFuture<V> schedule(@NotNull Callable<V> callable, long delay, @NotNull TimeUnit unit) {
+        return enqueue(new ScheduledCommand<>(callable, clock.millis() + unit.toMillis(delay), sequence.getAndIncrement()));
+    }
+
+    @Override
+    public @NotNull ScheduledFuture<?> scheduleAtFixedRate(@NotNull Runnable command, long initialDelay, long period, @NotNull TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive");
+        }
+        return enqueue(new ScheduledCommand<>(command, null, clock.millis() + unit.toMillis(initialDelay), unit.toMillis(period), sequence.getAndIncrement()));
+    }
+
+    @Override
+    public @NotNull ScheduledFuture<?> scheduleWithFixedDelay(@NotNull Runnable command, long initialDelay, long delay, @NotNull TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("Delay must be positive");
+        }
+        return enqueue(new ScheduledCommand<>(command, null, clock.millis() + unit.toMillis(initialDelay), -unit.toMillis(delay), sequence.getAndIncrement()));
+    }
+
+    @Override
+    public void execute(@NotNull Runnable command) {
+        schedule(command, 0, MILLISECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+    }
+
+    @Override
+    public @NotNull List<Runnable> shutdownNow() {
+        shutdown = true;
+        var remaining = new ArrayList<Runnable>(queue);
+        queue.clear();
+        return remaining;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && queue.isEmpty();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) {
+        return true;
+    }
+
+    private <V> ScheduledCommand<V> enqueue(ScheduledCommand<V> command) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+        queue.add(command);
+        return command;
+    }
+
+    private final class ScheduledCommand<V> extends FutureTask<V> implements ScheduledFuture<V> {
+
+        /**
+         * 0 for one-shot commands, a positive value for fixed-rate and a negative value for fixed-delay commands, as in
+         * {@link java.util.concurrent.ScheduledThreadPoolExecutor}.
+         */
+        private final long period;
+        private long at;
+        private long sequenceNumber;
+
+        ScheduledCommand(Runnable runnable, V result, long at, long period, long sequenceNumber) {
+            super(runnable, result);
+            this.at = at;
+            this.period = period;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        ScheduledCommand(Callable<V> callable, long at, long sequenceNumber) {
+            super(callable);
+            this.at = at;
+            this.period = 0;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        @Override
+        public void run() {
+            if (period == 0) {
+                super.run();
+            } else if (shutdown) {
+                cancel(false);
+            } else if (runAndReset() && !shutdown) {
+                at = period > 0 ? at + period : clock.millis() - period;
+                sequenceNumber = sequence.getAndIncrement();
+                queue.add(this);
+            }
+        }
+
+        @Override
+        public long getDelay(@NotNull TimeUnit unit) {
+            return unit.convert(at - clock.millis(), MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(@NotNull Delayed other) {
+            if (other instanceof ScheduledCommand<?> command) {
+                var result = Long.compare(at, command.at);
+                return result != 0 ? result : Long.compare(sequenceNumber, command.sequenceNumber);
+            }
+            return Long.compare(getDelay(MILLISECONDS), other.getDelay(MILLISECONDS));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.executor.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeterministicScheduledExecutorTest {
+
+    private final VirtualClock clock = new VirtualClock(0);
+    private final DeterministicScheduledExecutor scheduler = new DeterministicScheduledExecutor(clock);
+    private final List<Long> runs = new ArrayList<>();
+
+    @Test
+    void schedule_shouldRunInOrderOfDueTime() {
+        scheduler.schedule(() -> runs.add(2L), 20, MILLISECONDS);
+        scheduler.schedule(() -> runs.add(1L), 10, MILLISECONDS);
+        scheduler.schedule(() -> runs.add(3L), 20, MILLISECONDS);
+
+        var executed = scheduler.runFor(Duration.ofMillis(20));
+
+        assertThat(executed).isEqualTo(3);
+        assertThat(runs).containsExactly(1L, 2L, 3L);
+        assertThat(clock.millis()).isEqualTo(20);
+    }
+
+    @Test
+    void scheduleAtFixedRate_shouldRescheduleRelativeToDueTime() {
+        scheduler.scheduleAtFixedRate(() -> {
+            runs.add(clock.millis());
+            clock.advance(Duration.ofMillis(30));
+        }, 10, 100, MILLISECONDS);
+
+        scheduler.runFor(Duration.ofMillis(350));
+
+        assertThat(runs).containsExactly(10L, 110L, 210L, 310L);
+        assertThat(scheduler.pending()).isEqualTo(1);
+    }
+
+    @Test
+    void scheduleWithFixedDelay_shouldRescheduleRelativeToCompletion() {
+        scheduler.scheduleWithFixedDelay(() -> {
+            runs.add(clock.millis());
+            clock.advance(Duration.ofMillis(30));
+        }, 10, 100, MILLISECONDS);
+
+        scheduler.runFor(Duration.ofMillis(350));
+
+        assertThat(runs).containsExactly(10L, 140L, 270L);
+    }
+
+    @Test
+    void periodicCommand_shouldStop_whenCancelled() {
+        var future = scheduler.scheduleAtFixedRate(() -> runs.add(clock.millis()), 0, 100, MILLISECONDS);
+        scheduler.runFor(Duration.ofMillis(150));
+
+        future.cancel(false);
+        scheduler.runFor(Duration.ofMillis(300));
+
+        assertThat(runs).containsExactly(0L, 100L);
+    }
+
+    @Test
+    void periodicCommand_shouldStop_whenShutDown() {
+        scheduler.scheduleWithFixedDelay(() -> runs.add(clock.millis()), 0, 100, MILLISECONDS);
+        scheduler.runFor(Duration.ofMillis(150));
+
+        scheduler.shutdown();
+        scheduler.runFor(Duration.ofMillis(300));
+
+        assertThat(runs).containsExactly(0L, 100L);
+        assertThat(scheduler.isTerminated()).isTrue();
+    }
+
+    @Test
+    void withZone_shouldFollowVirtualTime() {
+        var zoned = clock.withZone(ZoneId.of("Europe/Vienna"));
+
+        clock.advance(Duration.ofSeconds(1));
+
+        assertThat(zoned.millis()).isEqualTo(clock.millis());
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.executor.simulation;
+
+import org.eclipse.edc.controlplane.tasks.Task;
+import org.eclipse.edc.controlplane.tasks.store.TaskStore;
+import org.eclipse.edc.spi.query.QuerySpec;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Map-backed {@link TaskStore} for simulations. Tasks are returned ordered by their execution time, ties are broken
+ * by insertion order, so that repeated runs fetch tasks in the same order.
+ */
+public class SimulatedTaskStore implements TaskStore {
+
+    private final Map<String, Task> tasks = new LinkedHashMap<>();
+
+    @Override
+    public void create(Task task) {
+        tasks.put(task.getId(), task);
+    }
+
+    @Override
+    public List<Task> fetchForUpdate(QuerySpec querySpec) {
+        return tasks.values().stream()
+                .sorted(Comparator.comparingLong(Task::getAt))
+                .limit(querySpec.getLimit())
+                .toList();
+    }
+
+    @Override
+    public void update(Task task) {
+        tasks.replace(task.getId(), task);
+    }
+
+    @Override
+    public void delete(String id) {
+        tasks.remove(id);
+    }
+
+    @Override
+    public Task findById(String id) {
+        return tasks.get(id);
+    }
+
+    public int size() {
+        return tasks.size();
+    }
+}
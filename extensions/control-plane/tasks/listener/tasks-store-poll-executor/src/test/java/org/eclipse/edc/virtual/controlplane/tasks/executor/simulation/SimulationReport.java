@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.executor.simulation;
+
+import java.util.Map;
+
+/**
+ * Outcome of a {@link TaskSimulation} run. All times are virtual.
+ *
+ * @param arrived             number of tasks created by the workload
+ * @param completed           number of tasks handled successfully
+ * @param dropped             number of tasks deleted after a fatal error or after exhausting their retries
+ * @param remaining           number of tasks still in the store when the simulation ended
+ * @param attempts            number of handler invocations, including retries
+ * @param elapsedMillis       time from the first arrival to the last handled task
+ * @param throughputPerSecond completed tasks per second of elapsed time
+ * @param meanLagMillis       mean time between a task's arrival and its first execution
+ * @param maxLagMillis        longest time between a task's arrival and its first execution
+ * @param meanLagByName       mean lag grouped by task payload name
+ * @param fairness            Jain's fairness index over {@code meanLagByName}, 1.0 means all task types wait equally long
+ */
+public record SimulationReport(int arrived, int completed, int dropped, int remaining, int attempts,
+                               long elapsedMillis, double throughputPerSecond,
+                               double meanLagMillis, long maxLagMillis,
+                               Map<String, Double> meanLagByName, double fairness) {
+}
@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.executor.simulation;
+
+import org.eclipse.edc.virtual.controlplane.tasks.executor.TaskPollConfig;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskPollExecutorSimulationTest {
+
+    @Test
+    void run_shouldBeReproducible() {
+        var simulation = TaskSimulation.Builder.newInstance()
+                .seed(42)
+                .duration(Duration.ofSeconds(30))
+                .arrivalsPerSecond(second -> second % 10 < 5 ? 8 : 2)
+                .failureRate(0.2)
+                .latencyMillis(random -> 5 + random.nextInt(50))
+                .build();
+
+        assertThat(simulation.run()).isEqualTo(simulation.run());
+    }
+
+    @Test
+    void run_shouldKeepLagLow_whenLoadBelowCapacity() {
+        var report = TaskSimulation.Builder.newInstance()
+                .duration(Duration.ofMinutes(1))
+                .arrivalsPerSecond(second -> 2)
+                .latencyMillis(random -> 10)
+                .build()
+                .run();
+
+        assertThat(report.arrived()).isEqualTo(120);
+        assertThat(report.completed()).isEqualTo(120);
+        assertThat(report.dropped()).isZero();
+        assertThat(report.remaining()).isZero();
+        assertThat(report.maxLagMillis()).isLessThanOrEqualTo(200);
+        assertThat(report.fairness()).isGreaterThan(0.9);
+    }
+
+    @Test
+    void run_shouldBuildUpLag_whenLoadExceedsCapacity() {
+        var report = TaskSimulation.Builder.newInstance()
+                .duration(Duration.ofSeconds(10))
+                .arrivalsPerSecond(second -> 20)
+                .latencyMillis(random -> 10)
+                .build()
+                .run();
+
+        assertThat(report.completed()).isEqualTo(200);
+        assertThat(report.maxLagMillis()).isGreaterThan(5_000);
+        assertThat(report.throughputPerSecond()).isLessThan(10);
+    }
+
+    @Test
+    void run_shouldDropFewerTasks_withMoreRetries() {
+        var withoutRetries = TaskSimulation.Builder.newInstance()
+                .config(new TaskPollConfig(10, 0, 1))
+                .duration(Duration.ofMinutes(1))
+                .arrivalsPerSecond(second -> 2)
+                .failureRate(0.5)
+                .build()
+                .run();
+        var withRetries = TaskSimulation.Builder.newInstance()
+                .config(new TaskPollConfig(10, 5, 1))
+                .duration(Duration.ofMinutes(1))
+                .arrivalsPerSecond(second -> 2)
+                .failureRate(0.5)
+                .build()
+                .run();
+
+        assertThat(withoutRetries.completed() + withoutRetries.dropped()).isEqualTo(withoutRetries.arrived());
+        assertThat(withRetries.completed() + withRetries.dropped()).isEqualTo(withRetries.arrived());
+        assertThat(withRetries.dropped()).isLessThan(withoutRetries.dropped());
+        assertThat(withRetries.attempts()).isGreaterThan(withoutRetries.attempts());
+    }
+
+    @Test
+    void run_shouldKeepUpWithLoad_withLargerBatches() {
+        var unbatched = TaskSimulation.Builder.newInstance()
+                .config(new TaskPollConfig(10, 3, 1))
+                .duration(Duration.ofSeconds(10))
+                .arrivalsPerSecond(second -> 20)
+                .latencyMillis(random -> 10)
+                .build()
+                .run();
+        var batched = TaskSimulation.Builder.newInstance()
+                .config(new TaskPollConfig(10, 3, 10))
+                .duration(Duration.ofSeconds(10))
+                .arrivalsPerSecond(second -> 20)
+                .latencyMillis(random -> 10)
+                .build()
+                .run();
+
+        assertThat(unbatched.completed()).isEqualTo(200);
+        assertThat(batched.completed()).isEqualTo(200);
+        assertThat(batched.throughputPerSecond()).isGreaterThan(unbatched.throughputPerSecond() * 1.5);
+        assertThat(batched.maxLagMillis()).isLessThanOrEqualTo(300).isLessThan(unbatched.maxLagMillis());
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.executor.simulation;
+
+import org.eclipse.edc.controlplane.contract.spi.negotiation.ContractNegotiationTaskExecutor;
+import org.eclipse.edc.controlplane.contract.spi.negotiation.tasks.RequestNegotiation;
+import org.eclipse.edc.controlplane.tasks.ProcessTaskPayload;
+import org.eclipse.edc.controlplane.tasks.Task;
+import org.eclipse.edc.controlplane.transfer.spi.TransferProcessTaskExecutor;
+import org.eclipse.edc.controlplane.transfer.spi.tasks.PrepareTransfer;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.edc.virtual.controlplane.tasks.executor.TaskPollConfig;
+import org.eclipse.edc.virtual.controlplane.tasks.executor.TaskPollExecutor;
+import org.mockito.invocation.InvocationOnMock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToLongFunction;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Replays a synthetic task workload through the {@link TaskPollExecutor} on a {@link VirtualClock}. Arrivals, handler
+ * failures and handler latencies are drawn from a seeded {@link Random}, so a simulation with the same settings
+ * always produces the same {@link SimulationReport}, and minutes of virtual time run in milliseconds.
+ */
+public class TaskSimulation {
+
+    private static final long START_MILLIS = 1_000_000L;
+
+    private TaskPollConfig config = new TaskPollConfig(10, 3, 1);
+    private Duration duration = Duration.ofMinutes(1);
+    private Duration drainTimeout = Duration.ofMinutes(10);
+    private IntUnaryOperator arrivalsPerSecond = second -> 1;
+    private double failureRate;
+    private ToLongFunction<Random> latencyMillis = random -> 0L;
+    private List<Function<String, ProcessTaskPayload>> payloads = List.of(
+            processId -> RequestNegotiation.Builder.newInstance().processId(processId).processState(100).processType("CONSUMER").build(),
+            processId -> PrepareTransfer.Builder.newInstance().processId(processId).processState(100).processType("CONSUMER").build());
+    private long seed;
+
+    private TaskSimulation() {
+    }
+
+    /**
+     * Runs the workload until all arrivals have been created and the store is drained, or the drain timeout expires.
+     *
+     * @return the report
+     */
+    public SimulationReport run() {
+        var random = new Random(seed);
+        var clock = new VirtualClock(START_MILLIS);
+        var scheduler = new DeterministicScheduledExecutor(clock);
+        var store = new SimulatedTaskStore();
+        var recorder = new Recorder();
+
+        ContractNegotiationTaskExecutor negotiationExecutor = mock();
+        TransferProcessTaskExecutor transferExecutor = mock();
+        when(negotiationExecutor.handle(any())).thenAnswer(invocation -> handle(invocation, clock, random, recorder));
+        when(transferExecutor.handle(any())).thenAnswer(invocation -> handle(invocation, clock, random, recorder));
+
+        var pollExecutor = new TaskPollExecutor(config, scheduler, negotiationExecutor, transferExecutor, store,
+                new NoopTransactionContext(), mock(Monitor.class), clock);
+
+        var seconds = duration.toSeconds();
+        var sequence = 0;
+        for (var second = 0; second < seconds; second++) {
+            var count = arrivalsPerSecond.applyAsInt(second);
+            for (var i = 0; i < count; i++) {
+                var payload = payloads.get(random.nextInt(payloads.size())).apply("process-" + sequence++);
+                var delay = second * 1000L + i * 1000L / count;
+                scheduler.schedule(() -> {
+                    var task = Task.Builder.newInstance().at(clock.millis()).payload(payload).build();
+                    recorder.arrivals.put(payload.getProcessId(), new Arrival(payload.name(), clock.millis()));
+                    store.create(task);
+                }, delay, MILLISECONDS);
+            }
+        }
+
+        pollExecutor.start();
+        scheduler.runFor(duration);
+        var deadline = clock.millis() + drainTimeout.toMillis();
+        while (store.size() > 0 && clock.millis() < deadline) {
+            scheduler.runFor(Duration.ofSeconds(1));
+        }
+        pollExecutor.stop();
+
+        return recorder.report(store.size());
+    }
+
+    private StatusResult<Void> handle(InvocationOnMock invocation, VirtualClock clock, Random random, Recorder recorder) {
+        ProcessTaskPayload payload = invocation.getArgument(0);
+        recorder.attempt(payload.getProcessId(), clock.millis());
+        clock.advance(Duration.ofMillis(latencyMillis.applyAsLong(random)));
+        if (random.nextDouble() < failureRate) {
+            return StatusResult.failure(ERROR_RETRY, "Simulated failure");
+        }
+        recorder.completed(clock.millis());
+        return StatusResult.success();
+    }
+
+    private record Arrival(String name, long at) {
+    }
+
+    private static class Recorder {
+        private final Map<String, Arrival> arrivals = new HashMap<>();
+        private final Map<String, Long> lags = new HashMap<>();
+        private int attempts;
+        private int completed;
+        private long lastCompletion = START_MILLIS;
+
+        void attempt(String processId, long now) {
+            attempts++;
+            lags.computeIfAbsent(processId, id -> now - arrivals.get(id).at());
+        }
+
+        void completed(long now) {
+            completed++;
+            lastCompletion = Math.max(lastCompletion, now);
+        }
+
+        SimulationReport report(int remaining) {
+            var lagsByName = new TreeMap<String, List<Long>>();
+            lags.forEach((processId, lag) -> lagsByName.computeIfAbsent(arrivals.get(processId).name(), name -> new ArrayList<>()).add(lag));
+
+            var meanLagByName = new TreeMap<String, Double>();
+            lagsByName.forEach((name, values) -> meanLagByName.put(name, values.stream().mapToLong(Long::longValue).average().orElse(0)));
+
+            var meanLag = lags.values().stream().mapToLong(Long::longValue).average().orElse(0);
+            var maxLag = lags.values().stream().mapToLong(Long::longValue).max().orElse(0);
+            var elapsed = lastCompletion - START_MILLIS;
+            var throughput = elapsed > 0 ? completed * 1000.0 / elapsed : 0;
+            var arrived = arrivals.size();
+
+            return new SimulationReport(arrived, completed, arrived - completed - remaining, remaining, attempts,
+                    elapsed, throughput, meanLag, maxLag, meanLagByName, jainIndex(meanLagByName.values()));
+        }
+
+        private double jainIndex(Iterable<Double> values) {
+            var sum = 0.0;
+            var sumOfSquares = 0.0;
+            var count = 0;
+            for (var value : values) {
+                sum += value;
+                sumOfSquares += value * value;
+                count++;
+            }
+            return sumOfSquares == 0 ? 1.0 : (sum * sum) / (count * sumOfSquares);
+        }
+    }
+
+    public static class Builder {
+        private final TaskSimulation simulation = new TaskSimulation();
+
+        private Builder() {
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder config(TaskPollConfig config) {
+            simulation.config = config;
+            return this;
+        }
+
+        public Builder duration(Duration duration) {
+            simulation.duration = duration;
+            return this;
+        }
+
+        public Builder drainTimeout(Duration drainTimeout) {
+            simulation.drainTimeout = drainTimeout;
+            return this;
+        }
+
+        /**
+         * Arrival curve: number of tasks created in each second of the run, spread evenly over that second.
+         */
+        public Builder arrivalsPerSecond(IntUnaryOperator arrivalsPerSecond) {
+            simulation.arrivalsPerSecond = arrivalsPerSecond;
+            return this;
+        }
+
+        /**
+         * Probability of a handler invocation failing with a transient error.
+         */
+        public Builder failureRate(double failureRate) {
+            simulation.failureRate = failureRate;
+            return this;
+        }
+
+        /**
+         * Handler latency distribution in milliseconds.
+         */
+        public Builder latencyMillis(ToLongFunction<Random> latencyMillis) {
+            simulation.latencyMillis = latencyMillis;
+            return this;
+        }
+
+        /**
+         * Payload factories that receive the process id; one is picked at random for every arrival.
+         */
+        public Builder payloads(List<Function<String, ProcessTaskPayload>> payloads) {
+            simulation.payloads = payloads;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            simulation.seed = seed;
+            return this;
+        }
+
+        public TaskSimulation build() {
+            return simulation;
+        }
+    }
+}
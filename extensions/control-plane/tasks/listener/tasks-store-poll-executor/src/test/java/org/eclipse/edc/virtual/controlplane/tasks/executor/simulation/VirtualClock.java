@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.executor.simulation;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Clock that only moves forward when explicitly advanced.
+ */
+public class VirtualClock extends Clock {
+
+    private long millis;
+
+    public VirtualClock(long startMillis) {
+        this.millis = startMillis;
+    }
+
+    /**
+     * Moves the clock forward by the given duration.
+     *
+     * @param duration the duration, must not be negative
+     */
+    public synchronized void advance(Duration duration) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("Cannot move the clock backwards: " + duration);
+        }
+        millis += duration.toMillis();
+    }
+
+    /**
+     * Moves the clock to the given time, if it lies in the future.
+     *
+     * @param targetMillis the target time in epoch millis
+     */
+    public synchronized void advanceTo(long targetMillis) {
+        millis = Math.max(millis, targetMillis);
+    }
+
+    @Override
+    public synchronized long millis() {
+        return millis;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    /**
+     * Returns this clock, so that code deriving a zoned clock keeps following the virtual time. The zone is ignored.
+     */
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this;
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis());
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.backlog.api;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+
+/**
+ * Exposes the task backlog next to the observability endpoints, e.g. for autoscaling task workers.
+ */
+@Produces(APPLICATION_JSON)
+@Path("/check/tasks")
+public class TaskBacklogApiController {
+
+    private final TaskBacklogSampler sampler;
+
+    public TaskBacklogApiController(TaskBacklogSampler sampler) {
+        this.sampler = sampler;
+    }
+
+    @GET
+    public TaskBacklogSnapshot getBacklog() {
+        return sampler.snapshot();
+    }
+}
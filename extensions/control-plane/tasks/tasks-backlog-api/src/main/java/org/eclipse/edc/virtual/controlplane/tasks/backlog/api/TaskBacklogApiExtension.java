@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.backlog.api;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.virtual.controlplane.tasks.backlog.spi.TaskBacklogStore;
+import org.eclipse.edc.web.spi.WebService;
+
+import java.time.Clock;
+import java.util.concurrent.Executors;
+
+import static org.eclipse.edc.virtual.controlplane.tasks.backlog.api.TaskBacklogApiExtension.NAME;
+
+@Extension(NAME)
+public class TaskBacklogApiExtension implements ServiceExtension {
+
+    public static final String NAME = "Task Backlog API";
+
+    @Inject
+    private WebService webService;
+    @Inject(required = false)
+    private TaskBacklogStore backlogStore;
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+    @Inject
+    private Clock clock;
+
+    @Configuration
+    private TaskBacklogConfig config;
+
+    private TaskBacklogSampler sampler;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var monitor = context.getMonitor().withPrefix(NAME);
+        if (backlogStore == null) {
+            monitor.warning("No TaskBacklogStore is provided by the task store, the task backlog endpoint is disabled");
+            return;
+        }
+        var executor = executorInstrumentation.instrument(
+                Executors.newSingleThreadScheduledExecutor(r -> {
+                    var thread = Executors.defaultThreadFactory().newThread(r);
+                    thread.setName("TaskBacklogSampler");
+                    return thread;
+                }), "TaskBacklogSampler");
+        sampler = new TaskBacklogSampler(backlogStore, executor, monitor, clock);
+        webService.registerResource(new TaskBacklogApiController(sampler));
+    }
+
+    @Override
+    public void start() {
+        if (sampler != null) {
+            sampler.start(config.sampleInterval());
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (sampler != null) {
+            sampler.stop();
+        }
+    }
+}
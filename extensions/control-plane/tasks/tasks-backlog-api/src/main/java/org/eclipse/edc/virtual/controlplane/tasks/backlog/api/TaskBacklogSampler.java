@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.backlog.api;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.virtual.controlplane.tasks.backlog.spi.TaskBacklogStore;
+
+import java.time.Clock;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Periodically aggregates the task backlog through the {@link TaskBacklogStore} and keeps the last result, so that
+ * scrapes of the backlog endpoint never hit the store.
+ */
+public class TaskBacklogSampler {
+
+    static final String UNKNOWN_PROCESS_TYPE = "UNKNOWN";
+
+    private final TaskBacklogStore backlogStore;
+    private final ScheduledExecutorService executor;
+    private final Monitor monitor;
+    private final Clock clock;
+    private final AtomicReference<TaskBacklogSnapshot> snapshot = new AtomicReference<>(TaskBacklogSnapshot.EMPTY);
+
+    public TaskBacklogSampler(TaskBacklogStore backlogStore, ScheduledExecutorService executor, Monitor monitor, Clock clock) {
+        this.backlogStore = backlogStore;
+        this.executor = executor;
+        this.monitor = monitor;
+        this.clock = clock;
+    }
+
+    /**
+     * Samples the store right away and then with the given interval.
+     *
+     * @param intervalMillis delay between the end of a sample and the start of the next one
+     */
+    public void start(long intervalMillis) {
+        executor.scheduleWithFixedDelay(this::sample, 0, intervalMillis, MILLISECONDS);
+    }
+
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Returns the backlog computed by the last successful sample.
+     *
+     * @return the snapshot
+     */
+    public TaskBacklogSnapshot snapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Aggregates the backlog and replaces the snapshot. If the store cannot be read, the previous snapshot is kept.
+     */
+    void sample() {
+        try {
+            var now = clock.millis();
+            var pending = 0L;
+            var due = 0L;
+            var oldestDue = now;
+            var dueByName = new TreeMap<String, Long>();
+            var dueByProcessType = new TreeMap<String, Long>();
+
+            for (var group : backlogStore.aggregate(now)) {
+                pending += group.pending();
+                if (group.due() > 0) {
+                    var processType = group.processType() != null ? group.processType() : UNKNOWN_PROCESS_TYPE;
+                    due += group.due();
+                    oldestDue = Math.min(oldestDue, group.oldestDueAt());
+                    dueByName.merge(group.name(), group.due(), Long::sum);
+                    dueByProcessType.merge(processType, group.due(), Long::sum);
+                }
+            }
+            snapshot.set(new TaskBacklogSnapshot(pending, due, now - oldestDue, dueByName, dueByProcessType, now));
+        } catch (Exception e) {
+            monitor.warning("Failed to sample the task backlog", e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.backlog.api;
+
+import java.util.Map;
+
+/**
+ * Backlog of the task store at the time it was sampled.
+ *
+ * @param pending            number of tasks in the store, including tasks being executed
+ * @param due                number of pending tasks whose scheduled time has passed
+ * @param oldestDueAgeMillis age in milliseconds of the oldest due task, 0 if no task is due
+ * @param dueByName          due tasks per payload name
+ * @param dueByProcessType   due tasks per process type
+ * @param sampledAt          epoch millis of the sample, 0 if the store has not been sampled yet
+ */
+public record TaskBacklogSnapshot(long pending, long due, long oldestDueAgeMillis,
+                                  Map<String, Long> dueByName, Map<String, Long> dueByProcessType, long sampledAt) {
+
+    static final TaskBacklogSnapshot EMPTY = new TaskBacklogSnapshot(0, 0, 0, Map.of(), Map.of(), 0);
+}
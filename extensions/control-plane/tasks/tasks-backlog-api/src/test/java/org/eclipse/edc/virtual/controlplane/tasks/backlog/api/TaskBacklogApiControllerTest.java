@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.backlog.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskBacklogApiControllerTest {
+
+    private final TaskBacklogSampler sampler = mock();
+    private final TaskBacklogApiController controller = new TaskBacklogApiController(sampler);
+
+    @Test
+    void getBacklog_shouldReturnLastSnapshot() {
+        var snapshot = new TaskBacklogSnapshot(2, 1, 500, Map.of("negotiation.request", 1L), Map.of("CONSUMER", 1L), 10_000);
+        when(sampler.snapshot()).thenReturn(snapshot);
+
+        assertThat(controller.getBacklog()).isSameAs(snapshot);
+    }
+}
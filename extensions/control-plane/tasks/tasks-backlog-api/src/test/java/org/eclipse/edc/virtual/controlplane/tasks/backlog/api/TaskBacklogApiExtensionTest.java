@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.backlog.api;
+
+import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.virtual.controlplane.tasks.backlog.spi.TaskBacklogStore;
+import org.eclipse.edc.web.spi.WebService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(DependencyInjectionExtension.class)
+class TaskBacklogApiExtensionTest {
+
+    private final WebService webService = mock();
+    private final TaskBacklogStore backlogStore = mock();
+    private final ScheduledExecutorService executor = mock();
+    private final ExecutorInstrumentation executorInstrumentation = mock();
+
+    @BeforeEach
+    void setUp(ServiceExtensionContext context) {
+        when(executorInstrumentation.instrument(any(ScheduledExecutorService.class), anyString())).thenReturn(executor);
+        context.registerService(WebService.class, webService);
+        context.registerService(ExecutorInstrumentation.class, executorInstrumentation);
+        context.registerService(Clock.class, Clock.systemUTC());
+    }
+
+    @Nested
+    class WithBacklogStore {
+
+        @BeforeEach
+        void setUp(ServiceExtensionContext context) {
+            context.registerService(TaskBacklogStore.class, backlogStore);
+        }
+
+        @Test
+        void initialize_shouldRegisterController(ServiceExtensionContext context, TaskBacklogApiExtension extension) {
+            extension.initialize(context);
+
+            verify(webService).registerResource(any(TaskBacklogApiController.class));
+        }
+
+        @Test
+        void start_shouldSampleBacklogStore(ServiceExtensionContext context, TaskBacklogApiExtension extension) {
+            when(backlogStore.aggregate(anyLong())).thenReturn(List.of());
+            extension.initialize(context);
+
+            extension.start();
+
+            var sample = ArgumentCaptor.forClass(Runnable.class);
+            verify(executor).scheduleWithFixedDelay(sample.capture(), eq(0L), anyLong(), any());
+            sample.getValue().run();
+            verify(backlogStore).aggregate(anyLong());
+
+            extension.shutdown();
+            verify(executor).shutdownNow();
+        }
+
+        @Test
+        void getBacklog_shouldServeSnapshot(ServiceExtensionContext context, TaskBacklogApiExtension extension) {
+            extension.initialize(context);
+
+            var controller = ArgumentCaptor.forClass(Object.class);
+            verify(webService).registerResource(controller.capture());
+
+            assertThat(controller.getValue()).isInstanceOfSatisfying(TaskBacklogApiController.class,
+                    api -> assertThat(api.getBacklog()).isEqualTo(TaskBacklogSnapshot.EMPTY));
+        }
+    }
+
+    @Nested
+    class WithoutBacklogStore {
+
+        @Test
+        void initialize_shouldNotRegisterController(ServiceExtensionContext context, TaskBacklogApiExtension extension) {
+            extension.initialize(context);
+            extension.start();
+
+            verify(webService, never()).registerResource(any());
+            verify(executor, never()).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+        }
+    }
+}
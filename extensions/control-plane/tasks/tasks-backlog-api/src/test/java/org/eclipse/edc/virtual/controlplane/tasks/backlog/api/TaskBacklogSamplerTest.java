@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.backlog.api;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.virtual.controlplane.tasks.backlog.spi.TaskBacklogGroup;
+import org.eclipse.edc.virtual.controlplane.tasks.backlog.spi.TaskBacklogStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TaskBacklogSamplerTest {
+
+    private static final long NOW = 10_000L;
+
+    private final TaskBacklogStore backlogStore = mock();
+    private final ScheduledExecutorService executor = mock();
+    private final Monitor monitor = mock();
+    private final TaskBacklogSampler sampler = new TaskBacklogSampler(backlogStore, executor, monitor,
+            Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+
+    @Test
+    void snapshot_shouldBeEmpty_beforeFirstSample() {
+        assertThat(sampler.snapshot()).isEqualTo(TaskBacklogSnapshot.EMPTY);
+    }
+
+    @Test
+    void sample_shouldSumGroups() {
+        when(backlogStore.aggregate(NOW)).thenReturn(List.of(
+                new TaskBacklogGroup("negotiation.request", "CONSUMER", 2, 1, NOW - 3_000),
+                new TaskBacklogGroup("negotiation.request", "PROVIDER", 1, 1, NOW - 1_000),
+                new TaskBacklogGroup("transfer.prepare", "CONSUMER", 4, 0, 0)));
+
+        sampler.sample();
+
+        var snapshot = sampler.snapshot();
+        assertThat(snapshot.pending()).isEqualTo(7);
+        assertThat(snapshot.due()).isEqualTo(2);
+        assertThat(snapshot.oldestDueAgeMillis()).isEqualTo(3_000);
+        assertThat(snapshot.dueByName()).isEqualTo(Map.of("negotiation.request", 2L));
+        assertThat(snapshot.dueByProcessType()).isEqualTo(Map.of("CONSUMER", 1L, "PROVIDER", 1L));
+        assertThat(snapshot.sampledAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    void sample_shouldCountUnknownProcessType() {
+        when(backlogStore.aggregate(NOW)).thenReturn(List.of(new TaskBacklogGroup("transfer.prepare", null, 1, 1, NOW)));
+
+        sampler.sample();
+
+        assertThat(sampler.snapshot().dueByProcessType()).isEqualTo(Map.of(TaskBacklogSampler.UNKNOWN_PROCESS_TYPE, 1L));
+    }
+
+    @Test
+    void sample_shouldReportNoAge_whenNothingIsDue() {
+        when(backlogStore.aggregate(NOW)).thenReturn(List.of(new TaskBacklogGroup("transfer.prepare", "CONSUMER", 3, 0, 0)));
+
+        sampler.sample();
+
+        assertThat(sampler.snapshot().pending()).isEqualTo(3);
+        assertThat(sampler.snapshot().oldestDueAgeMillis()).isZero();
+        assertThat(sampler.snapshot().dueByName()).isEmpty();
+    }
+
+    @Test
+    void sample_shouldKeepPreviousSnapshot_whenStoreFails() {
+        when(backlogStore.aggregate(NOW))
+                .thenReturn(List.of(new TaskBacklogGroup("negotiation.request", "CONSUMER", 1, 1, NOW)))
+                .thenThrow(new RuntimeException("Store error"));
+
+        sampler.sample();
+        var previous = sampler.snapshot();
+        sampler.sample();
+
+        assertThat(sampler.snapshot()).isEqualTo(previous);
+        verify(monitor).warning(any(String.class), any(Exception.class));
+    }
+
+    @Test
+    void start_shouldScheduleSampling() {
+        sampler.start(5_000);
+
+        verify(executor).scheduleWithFixedDelay(any(Runnable.class), eq(0L),
+                eq(5_000L), eq(MILLISECONDS));
+    }
+}
@@ -28,6 +28,8 @@ pluginManagement {
 
 // extensions
 include(":extensions:control-plane:tasks:listener:tasks-store-poll-executor")
+include(":extensions:control-plane:tasks:tasks-backlog-api")
+include(":spi:control-plane:tasks-backlog-spi")
 include(":extensions:common:banner-extension")
 
 
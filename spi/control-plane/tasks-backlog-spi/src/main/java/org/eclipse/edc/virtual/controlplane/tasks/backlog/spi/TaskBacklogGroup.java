@@ -0,0 +1,29 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.backlog.spi;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Pending tasks sharing a payload name and process type.
+ *
+ * @param name        the payload name
+ * @param processType the process type, null for payloads that are not bound to a process
+ * @param pending     number of tasks in the store
+ * @param due         number of tasks whose scheduled time has passed
+ * @param oldestDueAt scheduled time in epoch millis of the oldest due task, only meaningful if {@code due > 0}
+ */
+public record TaskBacklogGroup(String name, @Nullable String processType, long pending, long due, long oldestDueAt) {
+}
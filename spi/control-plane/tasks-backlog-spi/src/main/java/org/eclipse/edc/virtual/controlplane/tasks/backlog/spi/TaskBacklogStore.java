@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.backlog.spi;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.util.List;
+
+/**
+ * Read-only aggregate view of the tasks held by the {@code TaskStore}, provided by the store implementation.
+ * <p>
+ * Implementations must neither lock nor load the tasks: a SQL store is expected to run a single grouped aggregate
+ * over the task table without {@code FOR UPDATE}, so tasks currently locked by a worker are counted as well.
+ */
+@ExtensionPoint
+public interface TaskBacklogStore {
+
+    /**
+     * Counts the pending tasks grouped by payload name and process type.
+     *
+     * @param now epoch millis against which tasks are considered due
+     * @return one group per payload name and process type that has at least one pending task
+     */
+    List<TaskBacklogGroup> aggregate(long now);
+}